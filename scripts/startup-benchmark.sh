@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Замер времени от запуска JVM до первого успешного ответа GET /films.
+# Использование: scripts/startup-benchmark.sh [plain|cds|aot-cds] [повторов]
+# Перед запуском соберите приложение: mvn -B package (plain), mvn -B -Pcds package (cds)
+# или mvn -B -Paot,cds package (aot-cds).
+set -euo pipefail
+
+MODE="${1:-plain}"
+RUNS="${2:-5}"
+PORT="${PORT:-8080}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR_NAME="filmorate-0.0.1-SNAPSHOT.jar"
+
+case "$MODE" in
+  plain)   CMD=(java -jar "$TARGET/$JAR_NAME") ;;
+  cds)     CMD=(java -XX:SharedArchiveFile="$TARGET/application/application.jsa" -jar "$TARGET/application/$JAR_NAME") ;;
+  aot-cds) CMD=(java -XX:SharedArchiveFile="$TARGET/application/application.jsa" -Dspring.aot.enabled=true
+                -jar "$TARGET/application/$JAR_NAME") ;;
+  *) echo "Неизвестный режим: $MODE" >&2; exit 1 ;;
+esac
+
+total=0
+for ((i = 1; i <= RUNS; i++)); do
+  start=$(date +%s%N)
+  "${CMD[@]}" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/films" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "Приложение завершилось до первого ответа" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "Запуск $i: $elapsed мс"
+  total=$((total + elapsed))
+done
+echo "Режим $MODE, среднее время до первого ответа: $((total / RUNS)) мс"
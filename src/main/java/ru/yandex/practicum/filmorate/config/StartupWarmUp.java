@@ -0,0 +1,68 @@
+package ru.yandex.practicum.filmorate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.yandex.practicum.filmorate.exception.ErrorResponse;
+import ru.yandex.practicum.filmorate.model.Film;
+import ru.yandex.practicum.filmorate.model.User;
+import ru.yandex.practicum.filmorate.validation.ModelValidator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Прогрев после старта приложения. Хранилища in-memory и стартуют пустыми, предзагружать в них нечего,
+ * поэтому в фоновом потоке заранее строятся Jackson-сериализаторы моделей и загружаются классы валидации.
+ * Это убирает задержку первого запроса, не удлиняя сам старт.
+ */
+@Slf4j
+@Component
+public class StartupWarmUp {
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public StartupWarmUp(ObjectMapper objectMapper,
+                         @Value("${filmorate.warm-up.enabled:true}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("filmorate-warm-up").start(this::run);
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        try {
+            Film film = Film.builder()
+                    .name("Warm-up")
+                    .description("Warm-up")
+                    .releaseDate(LocalDate.of(2000, 1, 1))
+                    .duration(1)
+                    .build();
+            User user = User.builder()
+                    .email("warm@up")
+                    .login("warm-up")
+                    .birthday(LocalDate.of(2000, 1, 1))
+                    .build();
+            ModelValidator.validate(film);
+            ModelValidator.validate(user);
+
+            objectMapper.readValue(objectMapper.writeValueAsString(film), Film.class);
+            objectMapper.readValue(objectMapper.writeValueAsString(user), User.class);
+            objectMapper.writeValueAsString(List.of(film, user));
+            objectMapper.writeValueAsString(new ErrorResponse("Warm-up", "Warm-up"));
+            log.debug("Прогрев завершён за {} мс", (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Прогрев не удался: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ru.yandex.practicum.filmorate.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import ru.yandex.practicum.filmorate.ratelimit.RateLimitFilter;
+
+@Configuration
+public class WebConfig {
+
+    // Лимитер регистрируется первым фильтром, чтобы отклонять запросы до остальной обработки;
+    // точные пути лайков и друзей проверяет сам фильтр
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
+            RateLimitFilter rateLimitFilter,
+            @Value("${filmorate.rate-limit.enabled:true}") boolean rateLimitEnabled) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/films/*", "/users/*");
+        registration.setEnabled(rateLimitEnabled);
+        return registration;
+    }
+}
@@ -1,12 +1,11 @@
 package ru.yandex.practicum.filmorate.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.yandex.practicum.filmorate.model.Film;
 import ru.yandex.practicum.filmorate.service.FilmService;
 
-import jakarta.validation.Valid;
-
 import java.util.List;
 
 @Slf4j
@@ -25,18 +24,25 @@ public class FilmController {
     }
 
     @GetMapping("/{id}")
-    public Film getFilmById(@PathVariable int id) {
-        return filmService.getFilmById(id);
+    public ResponseEntity<Film> getFilmById(@PathVariable int id) {
+        return withETag(filmService.getFilmById(id));
     }
 
     @PostMapping
-    public Film addFilm(@Valid @RequestBody Film film) {
-        return filmService.addFilm(film);
+    public ResponseEntity<Film> addFilm(@RequestBody Film film) {
+        return withETag(filmService.addFilm(film));
     }
 
     @PutMapping
-    public Film updateFilm(@Valid @RequestBody Film film) {
-        return filmService.updateFilm(film);
+    public ResponseEntity<Film> updateFilm(@RequestBody Film film,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        return withETag(IfMatch.update(ifMatch, film::setVersion, () -> filmService.updateFilm(film)));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<Film> patchFilm(@PathVariable int id, @RequestBody Film patch,
+                                          @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        return withETag(IfMatch.update(ifMatch, patch::setVersion, () -> filmService.patchFilm(id, patch)));
     }
 
     @PutMapping("/{id}/like/{userId}")
@@ -54,4 +60,8 @@ public class FilmController {
             @RequestParam(defaultValue = "10") int count) {
         return filmService.getPopularFilms(count);
     }
+
+    private ResponseEntity<Film> withETag(Film film) {
+        return IfMatch.withETag(film, film.getVersion());
+    }
 }
\ No newline at end of file
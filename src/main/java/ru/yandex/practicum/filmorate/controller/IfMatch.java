@@ -0,0 +1,58 @@
+package ru.yandex.practicum.filmorate.controller;
+
+import org.springframework.http.ResponseEntity;
+import ru.yandex.practicum.filmorate.exception.ConflictException;
+import ru.yandex.practicum.filmorate.exception.PreconditionFailedException;
+import ru.yandex.practicum.filmorate.exception.ValidationException;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Условные запросы по версии записи: разбор If-Match и выдача ETag.
+ * ETag имеет вид "версия". Несовпадение версии из If-Match даёт 412, а устаревшая версия
+ * в теле запроса без заголовка — 409.
+ */
+final class IfMatch {
+    private IfMatch() {
+    }
+
+    /**
+     * Разбирает заголовок If-Match. Принимаются значения вида 3, "3" и W/"3"; для отсутствующего
+     * заголовка и * возвращается null — обновление безусловное.
+     */
+    static Integer parseVersion(String header) {
+        if (header == null || header.isBlank() || header.strip().equals("*")) {
+            return null;
+        }
+        String value = header.strip();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Некорректный заголовок If-Match: " + header);
+        }
+    }
+
+    static <T> T update(String header, Consumer<Integer> versionSetter, Supplier<T> update) {
+        Integer version = parseVersion(header);
+        if (version == null) {
+            return update.get();
+        }
+        versionSetter.accept(version);
+        try {
+            return update.get();
+        } catch (ConflictException e) {
+            throw new PreconditionFailedException(e.getMessage());
+        }
+    }
+
+    static <T> ResponseEntity<T> withETag(T body, Integer version) {
+        return ResponseEntity.ok().eTag("\"" + version + "\"").body(body);
+    }
+}
@@ -0,0 +1,23 @@
+package ru.yandex.practicum.filmorate.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.yandex.practicum.filmorate.ratelimit.RateLimitFilter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/rate-limit")
+public class RateLimitController {
+    private final RateLimitFilter rateLimitFilter;
+
+    public RateLimitController(RateLimitFilter rateLimitFilter) {
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    @GetMapping("/metrics")
+    public Map<String, Number> getMetrics() {
+        return rateLimitFilter.getMetrics();
+    }
+}
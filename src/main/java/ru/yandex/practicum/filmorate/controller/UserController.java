@@ -1,7 +1,7 @@
 package ru.yandex.practicum.filmorate.controller;
 
-import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.yandex.practicum.filmorate.model.User;
 import ru.yandex.practicum.filmorate.service.UserService;
@@ -25,26 +25,36 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public User getUserById(@PathVariable int id) {
+    public ResponseEntity<User> getUserById(@PathVariable int id) {
         log.info("Получен запрос на получение пользователя с id={}", id);
-        return userService.getUserById(id);
+        return withETag(userService.getUserById(id));
     }
 
     @PostMapping
-    public User createUser(@Valid @RequestBody User user) {
+    public ResponseEntity<User> createUser(@RequestBody User user) {
         log.info("Получен запрос на создание пользователя: {}", user);
         User createdUser = userService.addUser(user);
         log.debug("Пользователь успешно создан: {}", createdUser);
-        return createdUser;
+        return withETag(createdUser);
 
     }
 
     @PutMapping
-    public User updateUser(@Valid @RequestBody User user) {
+    public ResponseEntity<User> updateUser(@RequestBody User user,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch) {
         log.info("Получен запрос на обновление пользователя с ID {}: {}", user.getId(), user);
-        User updatedUser = userService.updateUser(user);
+        User updatedUser = IfMatch.update(ifMatch, user::setVersion, () -> userService.updateUser(user));
         log.debug("Пользователь успешно обновлён: {}", updatedUser);
-        return updatedUser;
+        return withETag(updatedUser);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<User> patchUser(@PathVariable int id, @RequestBody User patch,
+                                          @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        log.info("Получен запрос на частичное обновление пользователя с ID {}: {}", id, patch);
+        User updatedUser = IfMatch.update(ifMatch, patch::setVersion, () -> userService.patchUser(id, patch));
+        log.debug("Пользователь успешно обновлён: {}", updatedUser);
+        return withETag(updatedUser);
     }
 
     @PutMapping("/{id}/friends/{friendId}")
@@ -70,4 +80,8 @@ public class UserController {
         log.info("Получен запрос на получение общих друзей пользователей {} и {}", id, otherId);
         return userService.getCommonFriends(id, otherId);
     }
+
+    private ResponseEntity<User> withETag(User user) {
+        return IfMatch.withETag(user, user.getVersion());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package ru.yandex.practicum.filmorate.exception;
+
+/**
+ * Бросается при несовпадении версии записи; стек-трейс не нужен, клиент просто перечитывает запись.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,57 +1,45 @@
 package ru.yandex.practicum.filmorate.exception;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.bind.MethodArgumentNotValidException;
-
-import java.util.Map;
-import java.util.HashMap;
 
 @RestControllerAdvice
 public class ErrorHandler {
-
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Map<String, String> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-        return Map.of(
-                "error", "Validation error",
-                "message", errors.toString()
-        );
-    }
+    private static final String VALIDATION_ERROR = "Validation error";
+    private static final String NOT_FOUND = "Not found";
+    private static final String CONFLICT = "Conflict";
+    private static final String PRECONDITION_FAILED = "Precondition failed";
+    private static final String INTERNAL_SERVER_ERROR = "Internal server error";
 
     @ExceptionHandler(ValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Map<String, String> handleValidationException(ValidationException e) {
-        return Map.of(
-                "error", "Validation error",
-                "message", e.getMessage()
-        );
+    public ErrorResponse handleValidationException(ValidationException e) {
+        return new ErrorResponse(VALIDATION_ERROR, e.getMessage());
     }
 
     @ExceptionHandler(NotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
-    public Map<String, String> handleNotFoundException(NotFoundException e) {
-        return Map.of(
-                "error", "Not found",
-                "message", e.getMessage()
-        );
+    public ErrorResponse handleNotFoundException(NotFoundException e) {
+        return new ErrorResponse(NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConflictException(ConflictException e) {
+        return new ErrorResponse(CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ErrorResponse handlePreconditionFailedException(PreconditionFailedException e) {
+        return new ErrorResponse(PRECONDITION_FAILED, e.getMessage());
     }
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public Map<String, String> handleAllExceptions(Exception e) {
-        return Map.of(
-                "error", "Internal server error",
-                "message", e.getMessage()
-        );
+    public ErrorResponse handleAllExceptions(Exception e) {
+        return new ErrorResponse(INTERNAL_SERVER_ERROR, e.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package ru.yandex.practicum.filmorate.exception;
+
+/**
+ * Тело ответа с ошибкой. Сериализуется в тот же JSON, что и прежняя Map:
+ * {"error": ..., "message": ...}, но не требует создания хеш-таблицы на каждый ответ.
+ */
+public record ErrorResponse(String error, String message) {
+}
@@ -1,7 +1,10 @@
 package ru.yandex.practicum.filmorate.exception;
 
+/**
+ * Исключение без стек-трейса: бросается на каждый запрос несуществующего id, а стек клиенту не нужен.
+ */
 public class NotFoundException extends RuntimeException {
     public NotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
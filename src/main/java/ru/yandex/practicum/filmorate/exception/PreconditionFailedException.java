@@ -0,0 +1,10 @@
+package ru.yandex.practicum.filmorate.exception;
+
+/**
+ * Версия из заголовка If-Match не совпала с текущей (ответ 412). Стек-трейс не заполняется.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,7 +1,10 @@
 package ru.yandex.practicum.filmorate.exception;
 
+/**
+ * Стек-трейс не заполняется: ошибка вызвана данными клиента, а не кодом сервиса.
+ */
 public class ValidationException extends RuntimeException {
     public ValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,33 +1,28 @@
 package ru.yandex.practicum.filmorate.model;
 
-import jakarta.validation.constraints.*;
 import lombok.Data;
 import lombok.Builder;
 
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Класс, представляющий фильм в системе.
  * Содержит основные характеристики фильма и информацию о лайках.
+ * Правила валидации полей описаны в {@link ru.yandex.practicum.filmorate.validation.ModelValidator}.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class Film {
     private Integer id;            // Уникальный идентификатор фильма
-
-    @NotBlank(message = "Название фильма не может быть пустым")
     private String name;           // Название фильма
-
-    @Size(max = 200, message = "Описание не должно превышать 200 символов")
     private String description;    // Описание фильма
-
-    @NotNull(message = "Дата релиза обязательна")
     private LocalDate releaseDate; // Дата выхода фильма
-
-    @Positive(message = "Продолжительность должна быть положительным числом")
     private Integer duration;      // Продолжительность фильма в минутах
 
-    private final Set<Integer> likes = new HashSet<>();
+    private Integer version;       // Версия записи для условных обновлений (If-Match)
+
+    @Builder.Default
+    private final Set<Integer> likes = ConcurrentHashMap.newKeySet();
 }
\ No newline at end of file
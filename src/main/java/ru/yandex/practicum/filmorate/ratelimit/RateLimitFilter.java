@@ -0,0 +1,152 @@
+package ru.yandex.practicum.filmorate.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.yandex.practicum.filmorate.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Допускает запросы к изменяющим эндпоинтам (лайки, друзья) только при наличии токенов
+ * в глобальном и клиентском бакетах.
+ *
+ * <p>Фильтр стоит первым в цепочке, поэтому отклонённый запрос не доходит до DispatcherServlet,
+ * поиска обработчика, обработки исключений и Jackson: ответ 429 — заранее сериализованные байты.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Pattern LIMITED_PATH = Pattern.compile("/(films/[^/]+/like|users/[^/]+/friends)/[^/]+");
+    private static final String TOO_MANY_REQUESTS = "Too many requests";
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final byte[] clientLimitBody;
+    private final byte[] overloadedBody;
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflowBucket;
+    private final AtomicLong lastEviction = new AtomicLong(Long.MIN_VALUE);
+    private final double clientPermitsPerSecond;
+    private final int clientBurst;
+    private final int maxTrackedClients;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedByClient = new LongAdder();
+    private final LongAdder rejectedByGlobal = new LongAdder();
+
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${filmorate.rate-limit.global.permits-per-second:1000}") double globalPermitsPerSecond,
+            @Value("${filmorate.rate-limit.global.burst:200}") int globalBurst,
+            @Value("${filmorate.rate-limit.client.permits-per-second:20}") double clientPermitsPerSecond,
+            @Value("${filmorate.rate-limit.client.burst:40}") int clientBurst,
+            @Value("${filmorate.rate-limit.client.max-tracked:10000}") int maxTrackedClients) {
+        this.clientLimitBody = body(objectMapper, "Превышен лимит запросов для клиента");
+        this.overloadedBody = body(objectMapper, "Сервис перегружен, повторите запрос позже");
+        this.globalBucket = new TokenBucket(globalPermitsPerSecond, globalBurst);
+        this.clientPermitsPerSecond = clientPermitsPerSecond;
+        this.clientBurst = clientBurst;
+        this.maxTrackedClients = maxTrackedClients;
+        this.overflowBucket = new TokenBucket(clientPermitsPerSecond, clientBurst);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !LIMITED_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getRemoteAddr();
+        TokenBucket clientBucket = clientBucket(client);
+        if (!clientBucket.tryAcquire()) {
+            rejectedByClient.increment();
+            log.debug("Превышен лимит запросов для клиента {}", client);
+            reject(response, clientLimitBody);
+            return;
+        }
+        // Токен клиента, взятый под запрос, который отклонён общим лимитом, возвращается:
+        // при перегрузке клиенты не должны расходовать квоту на невыполненные запросы
+        if (!globalBucket.tryAcquire()) {
+            clientBucket.refund();
+            rejectedByGlobal.increment();
+            log.debug("Превышен общий лимит запросов");
+            reject(response, overloadedBody);
+            return;
+        }
+        accepted.increment();
+        chain.doFilter(request, response);
+    }
+
+    public Map<String, Number> getMetrics() {
+        return Map.of(
+                "accepted", accepted.sum(),
+                "rejectedByClient", rejectedByClient.sum(),
+                "rejectedByGlobal", rejectedByGlobal.sum(),
+                "trackedClients", clientBuckets.size()
+        );
+    }
+
+    private static void reject(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // Формат совпадает с остальными ошибками из ErrorHandler
+    private static byte[] body(ObjectMapper objectMapper, String message) {
+        try {
+            return objectMapper.writeValueAsBytes(new ErrorResponse(TOO_MANY_REQUESTS, message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TokenBucket clientBucket(String client) {
+        TokenBucket bucket = clientBuckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clientBuckets.size() >= maxTrackedClients) {
+            evictIdleBuckets();
+            if (clientBuckets.size() >= maxTrackedClients) {
+                // Все отслеживаемые клиенты активны: новые адреса делят один общий бакет
+                // и не могут вытеснить чужие бакеты, перебирая адреса
+                return overflowBucket;
+            }
+        }
+        return clientBuckets.computeIfAbsent(client, c -> new TokenBucket(clientPermitsPerSecond, clientBurst));
+    }
+
+    // Удаляются только полностью пополненные бакеты, и не чаще раза в секунду, чтобы поток
+    // новых адресов не превращал каждый запрос в обход всей карты
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long last = lastEviction.get();
+        if (last != Long.MIN_VALUE && now - last < EVICTION_INTERVAL_NANOS) {
+            return;
+        }
+        if (lastEviction.compareAndSet(last, now)) {
+            clientBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+    }
+}
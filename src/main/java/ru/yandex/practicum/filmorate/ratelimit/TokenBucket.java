@@ -0,0 +1,53 @@
+package ru.yandex.practicum.filmorate.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Токен-бакет без блокировок, реализованный по алгоритму GCRA.
+ * Вместо счётчика токенов хранится теоретическое время прихода следующего запроса,
+ * поэтому всё состояние умещается в один AtomicLong и обновляется через compareAndSet.
+ */
+public class TokenBucket {
+    private final long intervalNanos;   // Время пополнения одного токена
+    private final long toleranceNanos;  // Допустимый "запас" на всплеск запросов
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Скорость и размер всплеска должны быть положительными");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * burst;
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = (tat == Long.MIN_VALUE || tat < now ? now : tat) + intervalNanos;
+            if (next - now > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Возвращает токен, взятый успешным {@link #tryAcquire()}, если запрос всё же был отклонён дальше.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * Бакет простаивает, если он полностью пополнен: удалить его и позже создать заново — то же самое.
+     */
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
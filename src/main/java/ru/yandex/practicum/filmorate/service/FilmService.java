@@ -8,6 +8,7 @@ import ru.yandex.practicum.filmorate.exception.NotFoundException;
 import ru.yandex.practicum.filmorate.model.Film;
 import ru.yandex.practicum.filmorate.storage.FilmStorage;
 import ru.yandex.practicum.filmorate.storage.UserStorage;
+import ru.yandex.practicum.filmorate.validation.ModelValidator;
 
 
 import java.util.List;
@@ -29,7 +30,7 @@ public class FilmService {
         log.debug("Попытка добавить лайк фильму id={} от пользователя id={}", filmId, userId);
         Film film = getFilmById(filmId);
         if (!userStorage.containsUser(userId)) {
-            log.warn("Пользователь с id={} не найден при попытке поставить лайк фильму id={}", userId, filmId);
+            log.debug("Пользователь с id={} не найден при попытке поставить лайк фильму id={}", userId, filmId);
             throw new NotFoundException("Пользователь с id=" + userId + " не найден!");
         }
         film.getLikes().add(userId);
@@ -40,7 +41,7 @@ public class FilmService {
         log.debug("Попытка удалить лайк фильму id={} от пользователя id={}", filmId, userId);
         Film film = getFilmById(filmId);
         if (!film.getLikes().remove(userId)) {
-            log.warn("Лайк от пользователя id={} не найден у фильма id={}", userId, filmId);
+            log.debug("Лайк от пользователя id={} не найден у фильма id={}", userId, filmId);
             throw new NotFoundException("Лайк от пользователя с id=" + userId + " не найден");
         }
         log.debug("Пользователь id={} удалил лайк с фильма id={}", userId, filmId);
@@ -55,11 +56,10 @@ public class FilmService {
 
     public Film getFilmById(int id) {
         log.debug("Поиск фильма по id={}", id);
-        Film film = filmStorage.getFilmById(id);
-        if (film == null) {
-            log.warn("Фильм с id={} не найден", id);
-            throw new NotFoundException("Фильм с id=" + id + " не найден");
-        }
+        Film film = filmStorage.getFilmById(id).orElseThrow(() -> {
+            log.debug("Фильм с id={} не найден", id);
+            return new NotFoundException("Фильм с id=" + id + " не найден");
+        });
         log.debug("Найден фильм: {}", film);
         return film;
     }
@@ -73,6 +73,7 @@ public class FilmService {
 
     public Film addFilm(Film film) {
         log.debug("Попытка добавить фильм: {}", film);
+        ModelValidator.validate(film);
         Film createdFilm = filmStorage.addFilm(film);
         log.debug("Фильм добавлен: {}", createdFilm);
         return createdFilm;
@@ -80,8 +81,33 @@ public class FilmService {
 
     public Film updateFilm(Film film) {
         log.debug("Попытка обновить фильм: {}", film);
+        ModelValidator.validate(film);
         Film updatedFilm = filmStorage.updateFilm(film);
         log.info("Фильм обновлен: {}", updatedFilm);
         return updatedFilm;
     }
+
+    /**
+     * Частичное обновление: поля, равные null в запросе, берутся из текущего фильма.
+     * Слияние и валидация выполняются хранилищем атомарно над последней версией записи, поэтому
+     * без версии от клиента PATCH всегда применяется поверх параллельных изменений. Версия из
+     * If-Match или тела запроса по-прежнему проверяется и при несовпадении даёт конфликт.
+     */
+    public Film patchFilm(int id, Film patch) {
+        log.debug("Попытка частично обновить фильм id={}: {}", id, patch);
+        Film updatedFilm = filmStorage.patchFilm(id, current -> {
+            Film merged = Film.builder()
+                    .id(id)
+                    .name(patch.getName() != null ? patch.getName() : current.getName())
+                    .description(patch.getDescription() != null ? patch.getDescription() : current.getDescription())
+                    .releaseDate(patch.getReleaseDate() != null ? patch.getReleaseDate() : current.getReleaseDate())
+                    .duration(patch.getDuration() != null ? patch.getDuration() : current.getDuration())
+                    .version(patch.getVersion())
+                    .build();
+            ModelValidator.validate(merged);
+            return merged;
+        });
+        log.info("Фильм частично обновлен: {}", updatedFilm);
+        return updatedFilm;
+    }
 }
\ No newline at end of file
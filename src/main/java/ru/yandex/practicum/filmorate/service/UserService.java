@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import ru.yandex.practicum.filmorate.exception.NotFoundException;
 import ru.yandex.practicum.filmorate.model.User;
 import ru.yandex.practicum.filmorate.storage.UserStorage;
+import ru.yandex.practicum.filmorate.validation.ModelValidator;
 
 import java.util.HashSet;
 import java.util.List;
@@ -56,11 +57,8 @@ public class UserService {
     }
 
     public User getUserById(int id) {
-        User user = userStorage.getUserById(id);
-        if (user == null) {
-            throw new NotFoundException("Пользователь с id=" + id + " не найден");
-        }
-        return user;
+        return userStorage.getUserById(id)
+                .orElseThrow(() -> new NotFoundException("Пользователь с id=" + id + " не найден"));
     }
 
     public List<User> getAllUsers() {
@@ -68,11 +66,32 @@ public class UserService {
     }
 
     public User addUser(User user) {
+        ModelValidator.validate(user);
         return userStorage.addUser(user);
     }
 
     public User updateUser(User user) {
-        //getUserById(user.getId());
+        ModelValidator.validate(user);
         return userStorage.updateUser(user);
     }
+
+    /**
+     * Частичное обновление: поля, равные null в запросе, берутся из текущего пользователя.
+     * Слияние выполняется хранилищем атомарно над последней версией, поэтому PATCH без версии
+     * не конфликтует с параллельными записями; явная версия проверяется как при PUT.
+     */
+    public User patchUser(int id, User patch) {
+        return userStorage.patchUser(id, current -> {
+            User merged = User.builder()
+                    .id(id)
+                    .email(patch.getEmail() != null ? patch.getEmail() : current.getEmail())
+                    .login(patch.getLogin() != null ? patch.getLogin() : current.getLogin())
+                    .name(patch.getName() != null ? patch.getName() : current.getName())
+                    .birthday(patch.getBirthday() != null ? patch.getBirthday() : current.getBirthday())
+                    .version(patch.getVersion())
+                    .build();
+            ModelValidator.validate(merged);
+            return merged;
+        });
+    }
 }
\ No newline at end of file
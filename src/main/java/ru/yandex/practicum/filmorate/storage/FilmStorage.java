@@ -3,6 +3,8 @@ package ru.yandex.practicum.filmorate.storage;
 import ru.yandex.practicum.filmorate.model.Film;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 public interface FilmStorage {
     List<Film> getAllFilms();
@@ -11,7 +13,13 @@ public interface FilmStorage {
 
     Film updateFilm(Film film);
 
-    Film getFilmById(int id);
+    /**
+     * Атомарно применяет частичное обновление к текущей записи. Функция получает актуальный фильм
+     * и возвращает новый; проверка версии та же, что в {@link #updateFilm(Film)}.
+     */
+    Film patchFilm(int id, UnaryOperator<Film> patch);
+
+    Optional<Film> getFilmById(int id);
 
     boolean containsFilm(int id);
 
@@ -1,46 +1,88 @@
 package ru.yandex.practicum.filmorate.storage;
 
 import org.springframework.stereotype.Component;
+import ru.yandex.practicum.filmorate.exception.ConflictException;
 import ru.yandex.practicum.filmorate.exception.NotFoundException;
-import ru.yandex.practicum.filmorate.exception.ValidationException;
 import ru.yandex.practicum.filmorate.model.Film;
 
-import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Component
 public class InMemoryFilmStorage implements FilmStorage {
-    private final Map<Integer, Film> films = new HashMap<>();
-    private static final LocalDate CINEMA_BIRTHDAY = LocalDate.of(1895, 12, 28);
-    private int nextId = 1;
+    private final Map<Integer, Film> films = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
 
     @Override
     public List<Film> getAllFilms() {
         return new ArrayList<>(films.values());
     }
 
+    /**
+     * Сохранённые фильмы после записи в карту не изменяются: обновление заменяет запись целиком,
+     * поэтому читатели всегда видят согласованный снимок полей и версии. Общим остаётся только
+     * потокобезопасное множество лайков, которое переходит из старой записи в новую.
+     */
     @Override
     public Film addFilm(Film film) {
-        validateFilm(film);
-        film.setId(getNextId());
-        films.put(film.getId(), film);
-        return film;
+        Film stored = film.toBuilder()
+                .id(getNextId())
+                .version(1)
+                .likes(concurrentCopy(film.getLikes()))
+                .build();
+        films.put(stored.getId(), stored);
+        return stored;
     }
 
+    /**
+     * Заменяет сохранённый фильм новым, сохраняя лайки.
+     * Если у входящего фильма указана версия, обновление выполняется только при её совпадении
+     * с текущей (compare-and-set), иначе бросается {@link ConflictException}.
+     */
     @Override
     public Film updateFilm(Film film) {
-        validateFilm(film);
-        if (!films.containsKey(film.getId())) {
+        if (film.getId() == null) {
+            throw new NotFoundException("Фильм с id=null не найден");
+        }
+        Film updated = films.computeIfPresent(film.getId(), (id, stored) -> replace(stored, film));
+        if (updated == null) {
             throw new NotFoundException("Фильм с id=" + film.getId() + " не найден");
         }
-        films.put(film.getId(), film);
-        return film;
+        return updated;
+    }
+
+    /**
+     * Слияние выполняется внутри {@code computeIfPresent}, то есть над последней версией записи,
+     * поэтому параллельные обновления между чтением и записью не теряются и не вызывают конфликта.
+     * Исключение из функции слияния (например, ошибка валидации) оставляет запись без изменений.
+     */
+    @Override
+    public Film patchFilm(int id, UnaryOperator<Film> patch) {
+        Film updated = films.computeIfPresent(id, (key, stored) -> replace(stored, patch.apply(stored)));
+        if (updated == null) {
+            throw new NotFoundException("Фильм с id=" + id + " не найден");
+        }
+        return updated;
+    }
+
+    private static Film replace(Film stored, Film film) {
+        if (film.getVersion() != null && !film.getVersion().equals(stored.getVersion())) {
+            throw new ConflictException("Фильм с id=" + stored.getId() + " был изменён: текущая версия "
+                    + stored.getVersion() + ", ожидалась " + film.getVersion());
+        }
+        return film.toBuilder()
+                .id(stored.getId())
+                .version(stored.getVersion() + 1)
+                .likes(stored.getLikes())
+                .build();
     }
 
     @Override
-    public Film getFilmById(int id) {
-        return films.get(id);
+    public Optional<Film> getFilmById(int id) {
+        return Optional.ofNullable(films.get(id));
     }
 
     @Override
@@ -57,12 +99,14 @@ public class InMemoryFilmStorage implements FilmStorage {
     }
 
     private int getNextId() {
-        return nextId++;
+        return nextId.getAndIncrement();
     }
 
-    private void validateFilm(Film film) {
-        if (film.getReleaseDate().isBefore(CINEMA_BIRTHDAY)) {
-            throw new ValidationException("Дата релиза не может быть раньше 28 декабря 1895 года");
+    private static Set<Integer> concurrentCopy(Set<Integer> source) {
+        Set<Integer> copy = ConcurrentHashMap.newKeySet();
+        if (source != null) {
+            copy.addAll(source);
         }
+        return copy;
     }
-}
\ No newline at end of file
+}
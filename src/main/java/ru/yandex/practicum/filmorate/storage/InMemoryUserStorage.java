@@ -2,42 +2,84 @@ package ru.yandex.practicum.filmorate.storage;
 
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import ru.yandex.practicum.filmorate.exception.ConflictException;
 import ru.yandex.practicum.filmorate.exception.NotFoundException;
 import ru.yandex.practicum.filmorate.model.User;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
 @Component
 public class InMemoryUserStorage implements UserStorage {
-    private final Map<Integer, User> users = new HashMap<>();
-    private int nextId = 1;
+    private final Map<Integer, User> users = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
 
     @Override
     public List<User> getAllUsers() {
         return new ArrayList<>(users.values());
     }
 
+    /**
+     * Как и фильмы, сохранённые пользователи не изменяются на месте: обновление кладёт в карту
+     * новый объект, который разделяет со старым только потокобезопасное множество друзей.
+     */
     @Override
     public User addUser(User user) {
-        if (!StringUtils.hasText(user.getName())) {
-            user.setName(user.getLogin());
-        }
-        user.setId(getNextId());
-        users.put(user.getId(), user);
-        return user;
+        User stored = user.toBuilder()
+                .id(getNextId())
+                .name(StringUtils.hasText(user.getName()) ? user.getName() : user.getLogin())
+                .version(1)
+                .friends(concurrentCopy(user.getFriends()))
+                .build();
+        users.put(stored.getId(), stored);
+        return stored;
     }
 
+    /**
+     * Заменяет сохранённого пользователя новым, сохраняя список друзей.
+     * При указанной версии проверяет её совпадение с текущей, иначе бросает {@link ConflictException}.
+     */
     @Override
     public User updateUser(User user) {
-        if (!users.containsKey(user.getId())) {
+        if (user.getId() == null) {
+            throw new NotFoundException("Пользователь с id=null не найден");
+        }
+        User updated = users.computeIfPresent(user.getId(), (id, stored) -> replace(stored, user));
+        if (updated == null) {
             throw new NotFoundException("Пользователь с id=" + user.getId() + " не найден");
         }
-        users.put(user.getId(), user);
-        return user;
+        return updated;
+    }
+
+    /**
+     * Слияние идёт над последней версией пользователя внутри {@code computeIfPresent},
+     * поэтому параллельная запись не теряется и не приводит к конфликту.
+     */
+    @Override
+    public User patchUser(int id, UnaryOperator<User> patch) {
+        User updated = users.computeIfPresent(id, (key, stored) -> replace(stored, patch.apply(stored)));
+        if (updated == null) {
+            throw new NotFoundException("Пользователь с id=" + id + " не найден");
+        }
+        return updated;
+    }
+
+    private static User replace(User stored, User user) {
+        if (user.getVersion() != null && !user.getVersion().equals(stored.getVersion())) {
+            throw new ConflictException("Пользователь с id=" + stored.getId() + " был изменён: текущая версия "
+                    + stored.getVersion() + ", ожидалась " + user.getVersion());
+        }
+        return user.toBuilder()
+                .id(stored.getId())
+                .version(stored.getVersion() + 1)
+                .friends(stored.getFriends())
+                .build();
     }
 
     @Override
-    public User getUserById(int id) {
-        return users.get(id);
+    public Optional<User> getUserById(int id) {
+        return Optional.ofNullable(users.get(id));
     }
 
     @Override
@@ -46,6 +88,14 @@ public class InMemoryUserStorage implements UserStorage {
     }
 
     private int getNextId() {
-        return nextId++;
+        return nextId.getAndIncrement();
+    }
+
+    private static Set<Integer> concurrentCopy(Set<Integer> source) {
+        Set<Integer> copy = ConcurrentHashMap.newKeySet();
+        if (source != null) {
+            copy.addAll(source);
+        }
+        return copy;
     }
-}
\ No newline at end of file
+}
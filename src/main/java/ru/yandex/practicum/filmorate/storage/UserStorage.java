@@ -3,6 +3,8 @@ package ru.yandex.practicum.filmorate.storage;
 import ru.yandex.practicum.filmorate.model.User;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 public interface UserStorage {
     List<User> getAllUsers();
@@ -11,7 +13,12 @@ public interface UserStorage {
 
     User updateUser(User user);
 
-    User getUserById(int id);
+    /**
+     * Атомарно применяет частичное обновление к текущему пользователю, см. {@link #updateUser(User)}.
+     */
+    User patchUser(int id, UnaryOperator<User> patch);
+
+    Optional<User> getUserById(int id);
 
     boolean containsUser(int id);
 
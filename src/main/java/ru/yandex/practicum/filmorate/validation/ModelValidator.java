@@ -0,0 +1,97 @@
+package ru.yandex.practicum.filmorate.validation;
+
+import ru.yandex.practicum.filmorate.exception.ValidationException;
+import ru.yandex.practicum.filmorate.model.Film;
+import ru.yandex.practicum.filmorate.model.User;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Единственное место, где описаны правила валидации фильмов и пользователей.
+ * Проверки выполняются напрямую, без рефлексии и регулярных выражений. Формат ошибок совпадает
+ * с прежним: нарушения полей отдаются сообщением вида {поле=текст ошибки}, а слишком ранняя дата
+ * релиза, которую раньше проверяло хранилище, — отдельным сообщением и только при корректных полях.
+ */
+public final class ModelValidator {
+    private static final LocalDate CINEMA_BIRTHDAY = LocalDate.of(1895, 12, 28);
+    private static final int MAX_DESCRIPTION_LENGTH = 200;
+
+    private ModelValidator() {
+    }
+
+    public static void validate(Film film) {
+        Map<String, String> errors = null;
+        if (isBlank(film.getName())) {
+            errors = addError(errors, "name", "Название фильма не может быть пустым");
+        }
+        if (film.getDescription() != null && film.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            errors = addError(errors, "description", "Описание не должно превышать 200 символов");
+        }
+        if (film.getReleaseDate() == null) {
+            errors = addError(errors, "releaseDate", "Дата релиза обязательна");
+        }
+        if (film.getDuration() != null && film.getDuration() <= 0) {
+            errors = addError(errors, "duration", "Продолжительность должна быть положительным числом");
+        }
+        throwIfInvalid(errors);
+        if (film.getReleaseDate().isBefore(CINEMA_BIRTHDAY)) {
+            throw new ValidationException("Дата релиза не может быть раньше 28 декабря 1895 года");
+        }
+    }
+
+    public static void validate(User user) {
+        Map<String, String> errors = null;
+        if (isBlank(user.getEmail())) {
+            errors = addError(errors, "email", "Email не может быть пустым");
+        } else if (!isEmail(user.getEmail())) {
+            errors = addError(errors, "email", "Email должен содержать символ @");
+        }
+        if (isBlank(user.getLogin())) {
+            errors = addError(errors, "login", "Логин не может быть пустым");
+        } else if (containsWhitespace(user.getLogin())) {
+            errors = addError(errors, "login", "Логин не может содержать пробелы");
+        }
+        if (user.getBirthday() != null && user.getBirthday().isAfter(LocalDate.now())) {
+            errors = addError(errors, "birthday", "Дата рождения не может быть в будущем");
+        }
+        throwIfInvalid(errors);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean containsWhitespace(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isWhitespace(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEmail(String value) {
+        int at = value.indexOf('@');
+        return at > 0
+                && at == value.lastIndexOf('@')
+                && at < value.length() - 1
+                && !containsWhitespace(value);
+    }
+
+    // Карта создаётся только при первой ошибке, чтобы корректный запрос не выделял память
+    private static Map<String, String> addError(Map<String, String> errors, String field, String message) {
+        if (errors == null) {
+            errors = new HashMap<>();
+        }
+        errors.putIfAbsent(field, message);
+        return errors;
+    }
+
+    private static void throwIfInvalid(Map<String, String> errors) {
+        if (errors != null) {
+            throw new ValidationException(errors.toString());
+        }
+    }
+}
@@ -1,27 +1,16 @@
 package ru.yandex.practicum.filmorate;
 
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
-import java.util.Set;
 
-import jakarta.validation.ConstraintViolation;
+import ru.yandex.practicum.filmorate.exception.ValidationException;
 import ru.yandex.practicum.filmorate.model.*;
+import ru.yandex.practicum.filmorate.validation.ModelValidator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class FilmTest {
-	private static Validator validator;
-
-	@BeforeAll
-	static void setup() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		validator = factory.getValidator();
-	}
 
 	// Тест для корректного фильма
 	@Test
@@ -33,8 +22,7 @@ class FilmTest {
 				.duration(148)
 				.build();
 
-		Set<ConstraintViolation<Film>> violations = validator.validate(film);
-		assertTrue(violations.isEmpty(), "Не должно быть нарушений валидации");
+		assertDoesNotThrow(() -> ModelValidator.validate(film), "Не должно быть нарушений валидации");
 	}
 
 	// Тесты для граничных случаев
@@ -47,10 +35,8 @@ class FilmTest {
 				.duration(120)
 				.build();
 
-		Set<ConstraintViolation<Film>> violations = validator.validate(film);
-		assertFalse(violations.isEmpty(), "Должны быть нарушения валидации");
-		assertEquals(1, violations.size());
-		assertEquals("Название фильма не может быть пустым", violations.iterator().next().getMessage());
+		ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(film));
+		assertEquals("{name=Название фильма не может быть пустым}", e.getMessage());
 	}
 
 	// Слишком длинное описание
@@ -64,10 +50,8 @@ class FilmTest {
 				.duration(120)
 				.build();
 
-		Set<ConstraintViolation<Film>> violations = validator.validate(film);
-		assertFalse(violations.isEmpty());
-		assertEquals("Описание не должно превышать 200 символов",
-				violations.iterator().next().getMessage());
+		ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(film));
+		assertEquals("{description=Описание не должно превышать 200 символов}", e.getMessage());
 	}
 
 	// Неположительная продолжительность
@@ -80,10 +64,22 @@ class FilmTest {
 				.duration(-10)  // Отрицательное значение
 				.build();
 
-		Set<ConstraintViolation<Film>> violations = validator.validate(film);
-		assertFalse(violations.isEmpty());
-		assertEquals("Продолжительность должна быть положительным числом",
-				violations.iterator().next().getMessage());
+		ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(film));
+		assertEquals("{duration=Продолжительность должна быть положительным числом}", e.getMessage());
+	}
+
+	// Слишком ранняя дата релиза сообщается отдельным сообщением, как и раньше
+	@Test
+	void shouldFailWhenReleaseDateBeforeCinemaBirthday() {
+		Film film = Film.builder()
+				.name("Valid Name")
+				.description("Valid description")
+				.releaseDate(LocalDate.of(1895, 12, 27))
+				.duration(120)
+				.build();
+
+		ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(film));
+		assertEquals("Дата релиза не может быть раньше 28 декабря 1895 года", e.getMessage());
 	}
 
 	// Тест для проверки всех ограничений одновременно
@@ -96,7 +92,9 @@ class FilmTest {
 				.duration(-10)  // Отрицательная
 				.build();
 
-		Set<ConstraintViolation<Film>> violations = validator.validate(film);
-		assertEquals(3, violations.size(), "Должно быть 3 нарушения валидации");
+		ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(film));
+		String message = e.getMessage();
+		assertTrue(message.contains("name=") && message.contains("description=") && message.contains("duration="));
+		assertFalse(message.contains("releaseDate="), "Должно быть 3 нарушения валидации");
 	}
-}
\ No newline at end of file
+}
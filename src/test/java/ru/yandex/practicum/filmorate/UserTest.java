@@ -1,26 +1,15 @@
 package ru.yandex.practicum.filmorate;
 
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.filmorate.exception.ValidationException;
 import ru.yandex.practicum.filmorate.model.*;
+import ru.yandex.practicum.filmorate.validation.ModelValidator;
 
 import java.time.LocalDate;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class UserTest {
-    private static Validator validator;
-
-    @BeforeAll
-    static void setup() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        validator = factory.getValidator();
-    }
 
     // Тест для корректного пользователя
     @Test
@@ -31,8 +20,7 @@ class UserTest {
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
 
-        Set<ConstraintViolation<User>> violations = validator.validate(user);
-        assertTrue(violations.isEmpty(), "Не должно быть нарушений валидации");
+        assertDoesNotThrow(() -> ModelValidator.validate(user), "Не должно быть нарушений валидации");
     }
 
     // Тест для пустого email
@@ -44,9 +32,8 @@ class UserTest {
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
 
-        Set<ConstraintViolation<User>> violations = validator.validate(user);
-        assertFalse(violations.isEmpty(), "Должны быть нарушения валидации");
-        assertEquals("Email не может быть пустым", violations.iterator().next().getMessage());
+        ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(user));
+        assertEquals("{email=Email не может быть пустым}", e.getMessage());
     }
 
     // Тест для email без @
@@ -58,11 +45,22 @@ class UserTest {
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
 
-        Set<ConstraintViolation<User>> violations = validator.validate(user);
-        assertFalse(violations.isEmpty());
-        assertEquals("Email должен содержать символ @", violations.iterator().next().getMessage());
+        ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(user));
+        assertEquals("{email=Email должен содержать символ @}", e.getMessage());
     }
 
+    // Тест для логина с пробелом
+    @Test
+    void shouldFailWhenLoginContainsWhitespace() {
+        User user = User.builder()
+                .email("valid@example.com")
+                .login("invalid login")
+                .birthday(LocalDate.of(1990, 1, 1))
+                .build();
+
+        ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(user));
+        assertEquals("{login=Логин не может содержать пробелы}", e.getMessage());
+    }
 
     // Тест для даты рождения в будущем
     @Test
@@ -73,9 +71,8 @@ class UserTest {
                 .birthday(LocalDate.now().plusDays(1))  // Завтра
                 .build();
 
-        Set<ConstraintViolation<User>> violations = validator.validate(user);
-        assertFalse(violations.isEmpty());
-        assertEquals("Дата рождения не может быть в будущем", violations.iterator().next().getMessage());
+        ValidationException e = assertThrows(ValidationException.class, () -> ModelValidator.validate(user));
+        assertEquals("{birthday=Дата рождения не может быть в будущем}", e.getMessage());
     }
 
     // Тест для пустого имени (должно пройти валидацию)
@@ -88,8 +85,7 @@ class UserTest {
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
 
-        Set<ConstraintViolation<User>> violations = validator.validate(user);
-        assertTrue(violations.isEmpty(), "Пустое имя должно быть допустимо");
+        assertDoesNotThrow(() -> ModelValidator.validate(user), "Пустое имя должно быть допустимо");
     }
 
-}
\ No newline at end of file
+}
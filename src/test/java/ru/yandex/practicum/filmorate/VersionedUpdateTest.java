@@ -0,0 +1,179 @@
+package ru.yandex.practicum.filmorate;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.filmorate.exception.ConflictException;
+import ru.yandex.practicum.filmorate.model.*;
+import ru.yandex.practicum.filmorate.service.FilmService;
+import ru.yandex.practicum.filmorate.storage.InMemoryFilmStorage;
+import ru.yandex.practicum.filmorate.storage.InMemoryUserStorage;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedUpdateTest {
+
+    private Film film(Integer id, Integer version) {
+        return Film.builder()
+                .id(id)
+                .name("Inception")
+                .description("A thief who steals corporate secrets...")
+                .releaseDate(LocalDate.of(2010, 7, 16))
+                .duration(148)
+                .version(version)
+                .build();
+    }
+
+    // Обновление фильма не затирает лайки и увеличивает версию
+    @Test
+    void shouldKeepLikesAndBumpVersionOnUpdate() {
+        InMemoryFilmStorage storage = new InMemoryFilmStorage();
+        Film created = storage.addFilm(film(null, null));
+        created.getLikes().add(42);
+
+        Film updated = storage.updateFilm(film(created.getId(), null));
+
+        assertEquals(2, updated.getVersion());
+        assertTrue(updated.getLikes().contains(42), "Лайк не должен потеряться при обновлении");
+    }
+
+    // Обновление с устаревшей версией отклоняется
+    @Test
+    void shouldRejectUpdateWithStaleVersion() {
+        InMemoryFilmStorage storage = new InMemoryFilmStorage();
+        Film created = storage.addFilm(film(null, null));
+        storage.updateFilm(film(created.getId(), 1));
+
+        assertThrows(ConflictException.class, () -> storage.updateFilm(film(created.getId(), 1)));
+    }
+
+    // Обновление пользователя сохраняет список друзей
+    @Test
+    void shouldKeepFriendsOnUserUpdate() {
+        InMemoryUserStorage storage = new InMemoryUserStorage();
+        User created = storage.addUser(User.builder()
+                .email("valid@example.com")
+                .login("valid_login")
+                .birthday(LocalDate.of(1990, 1, 1))
+                .build());
+        created.getFriends().add(7);
+
+        User updated = storage.updateUser(User.builder()
+                .id(created.getId())
+                .email("new@example.com")
+                .login("valid_login")
+                .name("New name")
+                .build());
+
+        assertEquals("new@example.com", updated.getEmail());
+        assertTrue(updated.getFriends().contains(7), "Друг не должен потеряться при обновлении");
+    }
+
+    // PATCH меняет только переданные поля и сохраняет лайки
+    @Test
+    void shouldPatchOnlyGivenFields() {
+        FilmService service = new FilmService(new InMemoryFilmStorage(), new InMemoryUserStorage());
+        Film created = service.addFilm(film(null, null));
+        created.getLikes().add(42);
+
+        Film patched = service.patchFilm(created.getId(), Film.builder().duration(99).build());
+
+        assertEquals(99, patched.getDuration());
+        assertEquals("Inception", patched.getName());
+        assertEquals(LocalDate.of(2010, 7, 16), patched.getReleaseDate());
+        assertEquals(2, patched.getVersion());
+        assertTrue(patched.getLikes().contains(42), "Лайк не должен потеряться при PATCH");
+    }
+
+    // Одновременные PUT и PATCH без версии не затирают друг друга и не конфликтуют: поля PUT
+    // сохраняются всегда, а продолжительность из PATCH — всегда, когда PATCH применён после PUT
+    // (PUT — полная замена, и если он применён последним, продолжительность берётся из него)
+    @Test
+    void shouldApplyConcurrentPutAndPatchWithoutConflict() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            FilmService service = new FilmService(new InMemoryFilmStorage(), new InMemoryUserStorage());
+            int id = service.addFilm(film(null, null)).getId();
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicReference<Film> patched = new AtomicReference<>();
+
+            Thread put = Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                service.updateFilm(Film.builder()
+                        .id(id)
+                        .name("Interstellar")
+                        .description("Space")
+                        .releaseDate(LocalDate.of(2014, 11, 6))
+                        .duration(169)
+                        .build());
+            });
+            Thread patch = Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                patched.set(service.patchFilm(id, Film.builder().duration(99).build()));
+            });
+            start.countDown();
+            put.join();
+            patch.join();
+
+            assertNotNull(patched.get(), "PATCH должен завершиться без конфликта");
+            Film result = service.getFilmById(id);
+            assertEquals(3, result.getVersion());
+            assertEquals("Interstellar", result.getName(), "Поля PUT не должны потеряться");
+            assertEquals(LocalDate.of(2014, 11, 6), result.getReleaseDate());
+            if (patched.get().getVersion() == 3) {
+                assertEquals(99, result.getDuration(), "PATCH после PUT должен сохранить продолжительность");
+                assertEquals("Interstellar", patched.get().getName(), "PATCH должен наложиться на результат PUT");
+            } else {
+                assertEquals(169, result.getDuration());
+            }
+        }
+    }
+
+    // Одновременные PATCH разных полей без версии сохраняют оба изменения при любом порядке
+    @Test
+    void shouldKeepBothConcurrentPatches() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            FilmService service = new FilmService(new InMemoryFilmStorage(), new InMemoryUserStorage());
+            int id = service.addFilm(film(null, null)).getId();
+            CountDownLatch start = new CountDownLatch(1);
+
+            Thread name = Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                service.patchFilm(id, Film.builder().name("Interstellar").build());
+            });
+            Thread duration = Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                service.patchFilm(id, Film.builder().duration(99).build());
+            });
+            start.countDown();
+            name.join();
+            duration.join();
+
+            Film result = service.getFilmById(id);
+            assertEquals(3, result.getVersion());
+            assertEquals("Interstellar", result.getName());
+            assertEquals(99, result.getDuration());
+        }
+    }
+
+    // PATCH с явной устаревшей версией по-прежнему отклоняется
+    @Test
+    void shouldRejectPatchWithStaleVersion() {
+        FilmService service = new FilmService(new InMemoryFilmStorage(), new InMemoryUserStorage());
+        int id = service.addFilm(film(null, null)).getId();
+        service.patchFilm(id, Film.builder().duration(99).build());
+
+        assertThrows(ConflictException.class,
+                () -> service.patchFilm(id, Film.builder().duration(100).version(1).build()));
+        assertEquals(99, service.getFilmById(id).getDuration());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
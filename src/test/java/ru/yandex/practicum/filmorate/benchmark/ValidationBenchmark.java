@@ -0,0 +1,138 @@
+package ru.yandex.practicum.filmorate.benchmark;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.*;
+import ru.yandex.practicum.filmorate.exception.ValidationException;
+import ru.yandex.practicum.filmorate.model.Film;
+import ru.yandex.practicum.filmorate.model.User;
+import ru.yandex.practicum.filmorate.validation.ModelValidator;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Сравнение стоимости валидации одного запроса: Hibernate Validator по аннотациям, которые раньше
+ * стояли на моделях, против {@link ModelValidator}. Аннотированные классы ниже воспроизводят
+ * прежние Film и User только как точку отсчёта для замера.
+ *
+ * <p>Запуск:
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=ru.yandex.practicum.filmorate.benchmark.ValidationBenchmark
+ * </pre>
+ */
+public class ValidationBenchmark {
+    private static final int ITERATIONS = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static long sink;
+
+    static class AnnotatedFilm {
+        @NotBlank(message = "Название фильма не может быть пустым")
+        String name;
+        @Size(max = 200, message = "Описание не должно превышать 200 символов")
+        String description;
+        @NotNull(message = "Дата релиза обязательна")
+        LocalDate releaseDate;
+        @Positive(message = "Продолжительность должна быть положительным числом")
+        Integer duration;
+
+        AnnotatedFilm(String name, String description, LocalDate releaseDate, Integer duration) {
+            this.name = name;
+            this.description = description;
+            this.releaseDate = releaseDate;
+            this.duration = duration;
+        }
+    }
+
+    static class AnnotatedUser {
+        @NotBlank(message = "Email не может быть пустым")
+        @Email(message = "Email должен содержать символ @")
+        String email;
+        @NotBlank(message = "Логин не может быть пустым")
+        @Pattern(regexp = "\\S+", message = "Логин не может содержать пробелы")
+        String login;
+        @PastOrPresent(message = "Дата рождения не может быть в будущем")
+        LocalDate birthday;
+
+        AnnotatedUser(String email, String login, LocalDate birthday) {
+            this.email = email;
+            this.login = login;
+            this.birthday = birthday;
+        }
+    }
+
+    public static void main(String[] args) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            LocalDate date = LocalDate.of(2010, 7, 16);
+
+            AnnotatedFilm annotatedFilm = new AnnotatedFilm("Inception", "A thief...", date, 148);
+            AnnotatedFilm annotatedBadFilm = new AnnotatedFilm(" ", "A".repeat(201), date, -10);
+            AnnotatedUser annotatedUser = new AnnotatedUser("valid@example.com", "valid_login", date);
+            AnnotatedUser annotatedBadUser = new AnnotatedUser("invalid-email", "invalid login", date);
+
+            Film film = Film.builder().name("Inception").description("A thief...").releaseDate(date).duration(148)
+                    .build();
+            Film badFilm = Film.builder().name(" ").description("A".repeat(201)).releaseDate(date).duration(-10)
+                    .build();
+            User user = User.builder().email("valid@example.com").login("valid_login").birthday(date).build();
+            User badUser = User.builder().email("invalid-email").login("invalid login").birthday(date).build();
+
+            System.out.printf("%-22s %16s %16s%n", "случай", "Hibernate ns/op", "ModelValidator ns/op");
+            print("корректный фильм",
+                    measure(() -> sink += validator.validate(annotatedFilm).size()),
+                    measure(() -> modelValidate(film)));
+            print("некорректный фильм",
+                    measure(() -> sink += validator.validate(annotatedBadFilm).size()),
+                    measure(() -> modelValidate(badFilm)));
+            print("корректный пользователь",
+                    measure(() -> sink += validator.validate(annotatedUser).size()),
+                    measure(() -> modelValidate(user)));
+            print("некорректный пользователь",
+                    measure(() -> sink += validator.validate(annotatedBadUser).size()),
+                    measure(() -> modelValidate(badUser)));
+            System.out.println("(контрольная сумма " + sink + ")");
+        }
+    }
+
+    private static void modelValidate(Film film) {
+        try {
+            ModelValidator.validate(film);
+        } catch (ValidationException e) {
+            sink += e.getMessage().length();
+        }
+    }
+
+    private static void modelValidate(User user) {
+        try {
+            ModelValidator.validate(user);
+        } catch (ValidationException e) {
+            sink += e.getMessage().length();
+        }
+    }
+
+    // Медиана времени одной операции по нескольким замерам после прогрева
+    private static double measure(Runnable operation) {
+        double[] rounds = new double[MEASURED_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                operation.run();
+            }
+            double nanosPerOp = (double) (System.nanoTime() - start) / ITERATIONS;
+            if (round >= WARMUP_ROUNDS) {
+                rounds[round - WARMUP_ROUNDS] = nanosPerOp;
+            }
+        }
+        Arrays.sort(rounds);
+        return rounds[MEASURED_ROUNDS / 2];
+    }
+
+    private static void print(String name, double hibernate, double model) {
+        System.out.printf("%-22s %16.1f %16.1f%n", name, hibernate, model);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.yandex.practicum.filmorate.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConditionalRequestTest {
+    private static final String FILM = "{\"name\":\"Inception\",\"description\":\"A thief\","
+            + "\"releaseDate\":\"2010-07-16\",\"duration\":148}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Ответы на создание, чтение и обновление содержат ETag с версией
+    @Test
+    void shouldReturnETagWithVersion() throws Exception {
+        mockMvc.perform(post("/films").contentType(MediaType.APPLICATION_JSON).content(FILM))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+        mockMvc.perform(get("/films/1"))
+                .andExpect(header().string("ETag", "\"1\""));
+        mockMvc.perform(put("/films").header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(updatedFilm(null)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.name").value("Interstellar"));
+    }
+
+    // Устаревшая версия в If-Match — 412, в теле запроса — 409
+    @Test
+    void shouldRejectStaleVersion() throws Exception {
+        mockMvc.perform(post("/films").contentType(MediaType.APPLICATION_JSON).content(FILM));
+        mockMvc.perform(put("/films").contentType(MediaType.APPLICATION_JSON).content(updatedFilm(null)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/films").header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(updatedFilm(null)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/films/1").header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"duration\":99}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/films").contentType(MediaType.APPLICATION_JSON).content(updatedFilm(1)))
+                .andExpect(status().isConflict());
+    }
+
+    // Некорректный If-Match — 400
+    @Test
+    void shouldRejectMalformedIfMatch() throws Exception {
+        mockMvc.perform(post("/films").contentType(MediaType.APPLICATION_JSON).content(FILM));
+        mockMvc.perform(patch("/films/1").header("If-Match", "abc")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"duration\":99}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // PATCH меняет только переданные поля
+    @Test
+    void shouldPatchOnlyGivenFields() throws Exception {
+        mockMvc.perform(post("/films").contentType(MediaType.APPLICATION_JSON).content(FILM));
+        mockMvc.perform(patch("/films/1").header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"duration\":99}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.name").value("Inception"))
+                .andExpect(jsonPath("$.duration").value(99));
+    }
+
+    private static String updatedFilm(Integer version) {
+        return "{\"id\":1,\"name\":\"Interstellar\",\"description\":\"Space\",\"releaseDate\":\"2014-11-06\","
+                + "\"duration\":169" + (version == null ? "" : ",\"version\":" + version) + "}";
+    }
+}
@@ -0,0 +1,32 @@
+package ru.yandex.practicum.filmorate.controller;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.filmorate.exception.ValidationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IfMatchTest {
+
+    // Отсутствующий заголовок и * означают безусловное обновление
+    @Test
+    void shouldReturnNullForMissingOrAnyHeader() {
+        assertNull(IfMatch.parseVersion(null));
+        assertNull(IfMatch.parseVersion(" "));
+        assertNull(IfMatch.parseVersion("*"));
+    }
+
+    // Версия извлекается из простого, строгого и слабого ETag
+    @Test
+    void shouldParseVersionFromETag() {
+        assertEquals(3, IfMatch.parseVersion("3"));
+        assertEquals(3, IfMatch.parseVersion("\"3\""));
+        assertEquals(3, IfMatch.parseVersion("W/\"3\""));
+    }
+
+    // Некорректный заголовок приводит к ошибке валидации (400)
+    @Test
+    void shouldRejectGarbageHeader() {
+        assertThrows(ValidationException.class, () -> IfMatch.parseVersion("abc"));
+        assertThrows(ValidationException.class, () -> IfMatch.parseVersion("\"1\", \"2\""));
+    }
+}
@@ -0,0 +1,424 @@
+package ru.yandex.practicum.filmorate.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.yandex.practicum.filmorate.FilmorateApplication;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Генератор нагрузки на REST API Filmorate с открытой моделью поступления запросов.
+ * Запросы отправляются по расписанию с заданной частотой независимо от того, ответил ли сервис
+ * на предыдущие, а задержка считается от запланированного момента отправки. Поэтому замедление
+ * сервиса видно в хвостах распределения, а не прячется за снижением частоты (coordinated omission).
+ * Id фильмов и пользователей выбираются по распределению Ципфа, задержки собираются в HdrHistogram.
+ *
+ * <p>Запуск (без load.baseUrl приложение поднимается в том же процессе на случайном порту):
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=ru.yandex.practicum.filmorate.load.LoadGenerator \
+ *     -Dload.rate=500 -Dload.duration=30 -Dload.mix=popular=40,get=40,like=15,friend=5
+ * </pre>
+ *
+ * <p>Параметры (системные свойства): load.scenario (mix или abuse), load.baseUrl, load.rate (запросов
+ * в секунду), load.duration (секунд), load.warmup (секунд, не попадают в отчёт), load.users, load.films,
+ * load.zipf (показатель 0..1), load.mix (веса операций popular, get, like, friend, miss),
+ * load.abuse.concurrency (число параллельных соединений нарушителя в сценарии abuse).
+ *
+ * <p>Операция miss запрашивает несуществующие фильмы (id больше load.films) и ожидает 404 — так
+ * воспроизводится трафик краулеров, например -Dload.mix=miss=90,get=10. Если сервис запущен отдельным
+ * процессом, свойство load.serverPid добавляет в отчёт его процессорное время на запрос.
+ *
+ * <p>Сценарий abuse трижды поднимает приложение в том же процессе и сравнивает задержки добросовестного
+ * клиента (127.0.0.1): без нарушителя, с нарушителем при выключенном лимитере и с нарушителем
+ * при включённом. Нарушитель подключается с адреса 127.0.0.2 и без пауз шлёт лайки.
+ *
+ * <p>Внимание: в режиме load.baseUrl весь трафик генератора приходит с одного адреса, и внешний сервис
+ * применяет к нему клиентский лимит (по умолчанию 20 запросов/с на лайки и друзей). При заметной частоте
+ * большая часть операций like и friend получит 429, и результаты будут описывать работу лимитера,
+ * а не сервиса. Запускайте такой сервис с поднятым лимитом, например
+ * --filmorate.rate-limit.client.permits-per-second=1000000 --filmorate.rate-limit.client.burst=1000000,
+ * как это делает генератор для приложения в своём процессе.
+ */
+public class LoadGenerator {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final int users;
+    private final int films;
+    private final ZipfianGenerator userIds;
+    private final ZipfianGenerator filmIds;
+    private final Map<Operation, Integer> mix;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, Stats> stats = new LinkedHashMap<>();
+
+    enum Operation {
+        POPULAR, GET, LIKE, FRIEND, MISS
+    }
+
+    private static class Stats {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+
+    LoadGenerator(String baseUrl, int users, int films, double zipf, Map<Operation, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.films = films;
+        this.userIds = new ZipfianGenerator(users, zipf);
+        this.filmIds = new ZipfianGenerator(films, zipf);
+        this.mix = mix;
+        // Накопленные веса считаются один раз: выбор операции на каждый запрос — поиск по массиву.
+        // Операции с нулевым весом пропускаются, иначе в массиве появятся равные значения
+        this.operations = mix.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String scenario = System.getProperty("load.scenario", "mix");
+        switch (scenario) {
+            case "mix" -> runMix();
+            case "abuse" -> runAbuse();
+            default -> throw new IllegalArgumentException("Неизвестный сценарий load.scenario: " + scenario);
+        }
+    }
+
+    private static void runMix() throws Exception {
+        String baseUrl = System.getProperty("load.baseUrl");
+        ConfigurableApplicationContext context = null;
+        if (baseUrl == null) {
+            // Все запросы идут с одного адреса, поэтому клиентский лимит поднимается,
+            // а глобальный лимит остаётся рабочим
+            context = startApplication(
+                    "--filmorate.rate-limit.client.permits-per-second=1000000",
+                    "--filmorate.rate-limit.client.burst=1000000");
+            baseUrl = localUrl(context);
+        }
+        try {
+            LoadGenerator generator = fromProperties(baseUrl, "popular=40,get=40,like=15,friend=5");
+            generator.seed();
+            int rate = Integer.getInteger("load.rate", 500);
+            generator.run(rate, Integer.getInteger("load.warmup", 5), false);
+            String serverPid = System.getProperty("load.serverPid");
+            Duration cpuBefore = serverCpu(serverPid);
+            generator.run(rate, Integer.getInteger("load.duration", 30), true);
+            Duration cpu = serverCpu(serverPid).minus(cpuBefore);
+            System.out.printf("Целевая частота: %d запросов/с, микс: %s%n", rate, generator.mix);
+            Histogram all = generator.report();
+            if (serverPid != null) {
+                System.out.printf("Процессорное время сервиса на запрос: %.1f мкс%n",
+                        cpu.toNanos() / 1000.0 / all.getTotalCount());
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    // Добросовестный клиент по умолчанию шлёт 50 запросов/с, из них 10/с — лайки и друзья,
+    // то есть заметно меньше клиентского лимита в 20 запросов/с
+    private static void runAbuse() throws Exception {
+        int rate = Integer.getInteger("load.rate", 50);
+        int concurrency = Integer.getInteger("load.abuse.concurrency", 64);
+        Map<String, Histogram> results = new LinkedHashMap<>();
+        results.put("без нарушителя, лимитер включён", abusePhase(rate, 0, true));
+        results.put("нарушитель, лимитер выключен", abusePhase(rate, concurrency, false));
+        results.put("нарушитель, лимитер включён", abusePhase(rate, concurrency, true));
+
+        System.out.printf("%nЗадержки добросовестного клиента (%d запросов/с), нарушитель: %d соединений%n",
+                rate, concurrency);
+        System.out.printf("%-34s %9s %9s %9s %9s%n", "фаза", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((phase, histogram) -> System.out.printf("%-34s %9.2f %9.2f %9.2f %9.2f%n", phase,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+    }
+
+    private static Histogram abusePhase(int rate, int abuserConcurrency, boolean rateLimitEnabled) throws Exception {
+        ConfigurableApplicationContext context = startApplication(
+                "--filmorate.rate-limit.enabled=" + rateLimitEnabled);
+        try {
+            LoadGenerator generator = fromProperties(localUrl(context), "popular=40,get=40,like=15,friend=5");
+            generator.seed();
+            Abuser abuser = new Abuser(generator, abuserConcurrency);
+            abuser.start();
+            try {
+                generator.run(rate, Integer.getInteger("load.warmup", 5), false);
+                generator.run(rate, Integer.getInteger("load.duration", 30), true);
+            } finally {
+                abuser.stop();
+            }
+            System.out.printf("%nНарушитель: %d соединений, лимитер %s; отправлено %d, отклонено с 429: %d%n",
+                    abuserConcurrency, rateLimitEnabled ? "включён" : "выключен",
+                    abuser.sent.sum(), abuser.rejected.sum());
+            if (rateLimitEnabled) {
+                System.out.println("Метрики лимитера: " + generator.client.send(
+                        HttpRequest.newBuilder(URI.create(generator.baseUrl + "/rate-limit/metrics")).build(),
+                        HttpResponse.BodyHandlers.ofString()).body());
+            }
+            return generator.report();
+        } finally {
+            context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.org.zalando.logbook=INFO"));
+        args.addAll(List.of(extraArgs));
+        return SpringApplication.run(FilmorateApplication.class, args.toArray(String[]::new));
+    }
+
+    // Адрес 127.0.0.1, а не localhost: localhost может разрешиться в ::1, и тогда нарушитель
+    // с адреса 127.0.0.2 не сможет подключиться
+    private static String localUrl(ConfigurableApplicationContext context) {
+        return "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    private static LoadGenerator fromProperties(String baseUrl, String defaultMix) {
+        return new LoadGenerator(baseUrl,
+                Integer.getInteger("load.users", 1000),
+                Integer.getInteger("load.films", 1000),
+                Double.parseDouble(System.getProperty("load.zipf", "0.99")),
+                parseMix(System.getProperty("load.mix", defaultMix)));
+    }
+
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Некорректный элемент load.mix: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Вес в load.mix не может быть отрицательным: " + part);
+            }
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Сумма весов load.mix должна быть положительной");
+        }
+        return mix;
+    }
+
+    // Id в сценарии считаются от 1, поэтому сервис должен стартовать с пустыми хранилищами
+    private void seed() throws Exception {
+        for (int i = 1; i <= users; i++) {
+            checkSeeded(send(client, "POST", "/users", "{\"email\":\"user" + i + "@example.com\",\"login\":\"user" + i
+                    + "\",\"name\":\"User " + i + "\",\"birthday\":\"1990-01-01\"}"));
+        }
+        for (int i = 1; i <= films; i++) {
+            checkSeeded(send(client, "POST", "/films", "{\"name\":\"Film " + i + "\",\"description\":\"Description " + i
+                    + "\",\"releaseDate\":\"2000-01-01\",\"duration\":120}"));
+        }
+    }
+
+    private static void checkSeeded(int status) {
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException("Не удалось заполнить данные, статус ответа " + status);
+        }
+    }
+
+    private void run(int rate, int seconds, boolean record) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                long delay = intended - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                Operation operation = nextOperation();
+                executor.execute(() -> execute(operation, intended, record));
+            }
+        }
+    }
+
+    private Operation nextOperation() {
+        return operationAt(ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+    }
+
+    // Операция, в чей диапазон накопленных весов попадает value из [0, сумма весов)
+    Operation operationAt(int value) {
+        int index = Arrays.binarySearch(cumulativeWeights, value + 1);
+        return operations[index >= 0 ? index : -index - 1];
+    }
+
+    private void execute(Operation operation, long intendedStart, boolean record) {
+        int status;
+        try {
+            status = switch (operation) {
+                case POPULAR -> send(client, "GET", "/films/popular?count=10", null);
+                case GET -> send(client, "GET", "/films/" + filmIds.next(), null);
+                case LIKE -> send(client, "PUT", "/films/" + filmIds.next() + "/like/" + randomUser(), null);
+                case MISS -> send(client, "GET", "/films/" + (films + filmIds.next()), null);
+                case FRIEND -> {
+                    int userId = userIds.next();
+                    int friendId = randomUser();
+                    yield send(client, "PUT", "/users/" + userId + "/friends/" + (friendId == userId
+                            ? friendId % users + 1 : friendId), null);
+                }
+            };
+        } catch (Exception e) {
+            status = -1;
+        }
+        if (!record) {
+            return;
+        }
+        Stats operationStats = stats.get(operation);
+        operationStats.latency.recordValue(Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS));
+        if (status == 429) {
+            operationStats.rejected.increment();
+        } else if (operation == Operation.MISS ? status != 404 : status < 200 || status >= 300) {
+            operationStats.errors.increment();
+        }
+    }
+
+    private int randomUser() {
+        return ThreadLocalRandom.current().nextInt(users) + 1;
+    }
+
+    private int send(HttpClient httpClient, String method, String path, String body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (body == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private Histogram report() {
+        System.out.printf("%-8s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "429", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats operationStats = entry.getValue();
+            if (operationStats.latency.getTotalCount() == 0) {
+                continue;
+            }
+            all.add(operationStats.latency);
+            System.out.println(line(entry.getKey().name().toLowerCase(), operationStats.latency,
+                    operationStats.errors.sum(), operationStats.rejected.sum()));
+        }
+        long errors = stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+        long rejected = stats.values().stream().mapToLong(s -> s.rejected.sum()).sum();
+        System.out.println(line("all", all, errors, rejected));
+        return all;
+    }
+
+    private static String line(String name, Histogram histogram, long errors, long rejected) {
+        return String.format("%-8s %9d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name, histogram.getTotalCount(), errors, rejected,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static Duration serverCpu(String pid) {
+        if (pid == null) {
+            return Duration.ZERO;
+        }
+        return ProcessHandle.of(Long.parseLong(pid))
+                .flatMap(process -> process.info().totalCpuDuration())
+                .orElseThrow(() -> new IllegalStateException("Нет данных о процессе сервиса " + pid));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Нарушитель: закрытый цикл из нескольких соединений с отдельного адреса, которые без пауз ставят лайки.
+     */
+    private static class Abuser {
+        private final LoadGenerator generator;
+        private final HttpClient client;
+        private final int concurrency;
+        private final List<Thread> threads = new ArrayList<>();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private volatile boolean running = true;
+
+        Abuser(LoadGenerator generator, int concurrency) throws Exception {
+            this.generator = generator;
+            this.concurrency = concurrency;
+            this.client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .localAddress(InetAddress.getByName("127.0.0.2"))
+                    .build();
+        }
+
+        void start() {
+            for (int i = 0; i < concurrency; i++) {
+                threads.add(Thread.ofVirtual().name("abuser-" + i).start(this::hammer));
+            }
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        private void hammer() {
+            while (running) {
+                try {
+                    int status = generator.send(client, "PUT",
+                            "/films/" + generator.filmIds.next() + "/like/" + generator.randomUser(), null);
+                    sent.increment();
+                    if (status == 429) {
+                        rejected.increment();
+                    }
+                } catch (Exception e) {
+                    sent.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.yandex.practicum.filmorate.load;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.filmorate.load.LoadGenerator.Operation;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    // Распределение Ципфа не выходит за [1, n], а самый частый id — первый
+    @Test
+    void shouldGenerateZipfianIdsInRange() {
+        ZipfianGenerator generator = new ZipfianGenerator(100, 0.99);
+        int[] counts = new int[101];
+        for (int i = 0; i < 100_000; i++) {
+            int value = generator.next();
+            assertTrue(value >= 1 && value <= 100, "Значение вне диапазона: " + value);
+            counts[value]++;
+        }
+        for (int id = 2; id <= 100; id++) {
+            assertTrue(counts[1] > counts[id], "Id 1 должен встречаться чаще, чем id " + id);
+        }
+        assertTrue(counts[1] > counts[10] * 5, "Распределение должно быть заметно скошенным");
+    }
+
+    // Некорректные параметры распределения отклоняются
+    @Test
+    void shouldRejectInvalidZipfianParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(0, 0.99));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(10, 1.0));
+    }
+
+    // Микс разбирается без учёта регистра и пробелов, порядок операций сохраняется
+    @Test
+    void shouldParseMix() {
+        Map<Operation, Integer> mix = LoadGenerator.parseMix("popular=40, GET=40 ,like=15,friend=5");
+
+        assertEquals(Map.of(Operation.POPULAR, 40, Operation.GET, 40, Operation.LIKE, 15, Operation.FRIEND, 5), mix);
+        assertEquals(Operation.POPULAR, mix.keySet().iterator().next());
+    }
+
+    // Некорректный микс отклоняется
+    @Test
+    void shouldRejectInvalidMix() {
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("popular"));
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("popular=1=2"));
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("unknown=10"));
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("get=x"));
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("get=0,like=0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("get=20,like=-10"));
+    }
+
+    // Операция выбирается по границам накопленных весов, операции с нулевым весом не выбираются
+    @Test
+    void shouldPickOperationByCumulativeWeights() {
+        LoadGenerator generator = new LoadGenerator("http://127.0.0.1:0", 10, 10, 0.99,
+                LoadGenerator.parseMix("popular=40,miss=0,get=40,like=15,friend=5"));
+
+        assertEquals(Operation.POPULAR, generator.operationAt(0));
+        assertEquals(Operation.POPULAR, generator.operationAt(39));
+        assertEquals(Operation.GET, generator.operationAt(40));
+        assertEquals(Operation.GET, generator.operationAt(79));
+        assertEquals(Operation.LIKE, generator.operationAt(80));
+        assertEquals(Operation.FRIEND, generator.operationAt(95));
+        assertEquals(Operation.FRIEND, generator.operationAt(99));
+    }
+}
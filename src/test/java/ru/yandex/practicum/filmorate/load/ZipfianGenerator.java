@@ -0,0 +1,48 @@
+package ru.yandex.practicum.filmorate.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Генератор чисел от 1 до n с распределением Ципфа (алгоритм Gray et al., как в YCSB):
+ * небольшое число "популярных" id получает основную часть запросов.
+ */
+class ZipfianGenerator {
+    private final int items;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+
+    ZipfianGenerator(int items, double theta) {
+        if (items <= 0 || theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("Нужно items > 0 и 0 < theta < 1");
+        }
+        this.items = items;
+        this.theta = theta;
+        this.zetaN = zeta(items, theta);
+        double zeta2 = zeta(2, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    int next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 1;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 2;
+        }
+        int value = 1 + (int) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(value, items);
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
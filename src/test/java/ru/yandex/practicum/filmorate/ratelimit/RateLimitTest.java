@@ -0,0 +1,119 @@
+package ru.yandex.practicum.filmorate.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitTest {
+    // Бакет пропускает всплеск не больше заданного размера
+    @Test
+    void shouldRejectRequestsAboveBurst() {
+        TokenBucket bucket = new TokenBucket(10, 3);
+        long now = 0;
+
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now), "Четвёртый запрос должен быть отклонён");
+    }
+
+    // После паузы токены восстанавливаются, а полностью пополненный бакет считается простаивающим
+    @Test
+    void shouldRefillTokensOverTime() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        long now = 0;
+
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+        assertFalse(bucket.isIdle(now));
+        assertTrue(bucket.isIdle(now + TimeUnit.MILLISECONDS.toNanos(100)));
+        assertTrue(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    // Возвращённый токен можно взять снова
+    @Test
+    void shouldReuseRefundedToken() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        long now = 0;
+
+        assertTrue(bucket.tryAcquire(now));
+        bucket.refund();
+        assertTrue(bucket.tryAcquire(now));
+    }
+
+    // Новый клиент при заполненной карте не сбрасывает бакет нарушителя
+    @Test
+    void shouldNotResetActiveClientBucketWhenMapIsFull() throws Exception {
+        RateLimitFilter filter = filter(1000, 1);
+
+        assertEquals(200, send(filter, "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "10.0.0.1").getStatus());
+
+        assertEquals(200, send(filter, "10.0.0.2").getStatus());
+        assertEquals(429, send(filter, "10.0.0.1").getStatus(),
+                "Бакет нарушителя не должен сбрасываться появлением нового адреса");
+    }
+
+    // Запрос, отклонённый общим лимитом, не расходует квоту клиента
+    @Test
+    void shouldRefundClientTokenWhenGlobalLimitRejects() throws Exception {
+        RateLimitFilter filter = filter(1, 10);
+
+        assertEquals(200, send(filter, "10.0.0.1").getStatus());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(429, send(filter, "10.0.0.2").getStatus());
+        }
+        assertEquals(0L, filter.getMetrics().get("rejectedByClient"));
+        assertEquals(5L, filter.getMetrics().get("rejectedByGlobal"));
+    }
+
+    // Отказ формируется в фильтре: цепочка не вызывается, тело в формате ErrorHandler
+    @Test
+    void shouldRejectBeforeChainWithErrorBody() throws Exception {
+        RateLimitFilter filter = filter(1000, 10);
+        send(filter, "10.0.0.1");
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send(filter, "10.0.0.1", "/films/1/like/1", chain);
+
+        assertEquals(429, response.getStatus());
+        assertNull(chain.getRequest(), "Отклонённый запрос не должен доходить до цепочки");
+        assertEquals("{\"error\":\"Too many requests\",\"message\":\"Превышен лимит запросов для клиента\"}",
+                response.getContentAsString());
+    }
+
+    // Остальные эндпоинты не ограничиваются
+    @Test
+    void shouldNotLimitOtherPaths() throws Exception {
+        RateLimitFilter filter = filter(1000, 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send(filter, "10.0.0.1", "/films/1", new MockFilterChain()).getStatus());
+        }
+        assertEquals(0L, filter.getMetrics().get("accepted"));
+    }
+
+    private static RateLimitFilter filter(int globalBurst, int maxTrackedClients) {
+        return new RateLimitFilter(new ObjectMapper(), 0.001, globalBurst, 0.001, 1, maxTrackedClients);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String address) throws Exception {
+        return send(filter, address, "/films/1/like/1", new MockFilterChain());
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String address, String path,
+                                                MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", path);
+        request.setRemoteAddr(address);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}